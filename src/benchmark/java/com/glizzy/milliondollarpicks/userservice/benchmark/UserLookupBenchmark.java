@@ -0,0 +1,139 @@
+package com.glizzy.milliondollarpicks.userservice.benchmark;
+
+import com.glizzy.milliondollarpicks.userservice.grpc.UserByIdRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserLookupGrpc;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersByIdsRequest;
+import com.glizzy.milliondollarpicks.userservice.server.CallerIdentityInterceptor;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Compares resolving a set of users through the GraphQL endpoint against the gRPC UserLookup API.
+ * Runs against an already started service; both paths bypass end-user authentication the way
+ * internal callers do (gateway header for GraphQL, caller service metadata for gRPC).
+ *
+ * Configured through system properties:
+ *   benchmark.host, benchmark.httpPort, benchmark.grpcPort,
+ *   benchmark.ids (comma separated, must exist), benchmark.warmup, benchmark.iterations
+ */
+public class UserLookupBenchmark {
+
+    private static final String USER_FIELDS = "id username email registrationDate lastLoginDate";
+
+    private final String host = System.getProperty("benchmark.host", "localhost");
+    private final int httpPort = Integer.getInteger("benchmark.httpPort", 8080);
+    private final int grpcPort = Integer.getInteger("benchmark.grpcPort", 9091);
+    private final int warmup = Integer.getInteger("benchmark.warmup", 50);
+    private final int iterations = Integer.getInteger("benchmark.iterations", 200);
+    private final List<Long> ids = parseIds(System.getProperty("benchmark.ids"));
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final URI graphqlUri = URI.create("http://" + host + ":" + httpPort + "/graphql");
+
+    public static void main(String[] args) throws Exception {
+        new UserLookupBenchmark().run();
+    }
+
+    private void run() throws Exception {
+        ManagedChannel channel = ManagedChannelBuilder.forAddress(host, grpcPort)
+                .usePlaintext()
+                .build();
+        try {
+            Metadata metadata = new Metadata();
+            metadata.put(CallerIdentityInterceptor.CALLER_SERVICE_KEY, "user-lookup-benchmark");
+            UserLookupGrpc.UserLookupBlockingStub stub = UserLookupGrpc.newBlockingStub(channel)
+                    .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata));
+
+            System.out.printf("Resolving %d users per iteration, %d warmup / %d measured iterations%n",
+                    ids.size(), warmup, iterations);
+
+            measure("graphql userById x" + ids.size(), () -> {
+                for (Long id : ids) {
+                    postGraphql("{ userById(id: \"" + id + "\") { " + USER_FIELDS + " } }");
+                }
+            });
+            measure("graphql aliased batch", () -> postGraphql(aliasedQuery()));
+            measure("grpc GetUserById x" + ids.size(), () -> {
+                for (Long id : ids) {
+                    stub.getUserById(UserByIdRequest.newBuilder().setId(id).build());
+                }
+            });
+            measure("grpc GetUsersByIds", () ->
+                    stub.getUsersByIds(UsersByIdsRequest.newBuilder().addAllIds(ids).build()));
+        } finally {
+            channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void measure(String name, Scenario scenario) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            scenario.run();
+        }
+
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            scenario.run();
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        double mean = Arrays.stream(samples).average().orElse(0) / 1_000_000.0;
+        System.out.printf("%-28s mean %8.3f ms   p50 %8.3f ms   p99 %8.3f ms%n",
+                name, mean, percentile(samples, 0.50), percentile(samples, 0.99));
+    }
+
+    private void postGraphql(String query) throws Exception {
+        String body = "{\"query\":\"" + query.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(graphqlUri)
+                .header("Content-Type", "application/json")
+                .header("X-Apollo-Gateway", "user-lookup-benchmark")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 || response.body().contains("\"errors\"")) {
+            throw new IllegalStateException("GraphQL request failed: " + response.body());
+        }
+    }
+
+    private String aliasedQuery() {
+        List<String> fields = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            fields.add("u" + i + ": userById(id: \"" + ids.get(i) + "\") { " + USER_FIELDS + " }");
+        }
+        return "{ " + String.join(" ", fields) + " }";
+    }
+
+    private static double percentile(long[] sortedSamples, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static List<Long> parseIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return LongStream.rangeClosed(1, 20).boxed().collect(Collectors.toList());
+        }
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .map(Long::parseLong)
+                .collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface Scenario {
+        void run() throws Exception;
+    }
+}
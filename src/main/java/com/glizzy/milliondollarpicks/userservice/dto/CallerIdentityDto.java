@@ -0,0 +1,13 @@
+package com.glizzy.milliondollarpicks.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CallerIdentityDto {
+    private String callerService;
+    private String authorization;
+}
@@ -0,0 +1,10 @@
+package com.glizzy.milliondollarpicks.userservice.exception;
+
+/**
+ * Thrown when an authenticated user asks for data that is not theirs
+ */
+public class AuthorizationException extends RuntimeException {
+    public AuthorizationException(String message) {
+        super(message);
+    }
+}
@@ -30,6 +30,18 @@ public class GlobalExceptionHandler extends DefaultDataFetcherExceptionHandler {
             );
         }
 
+        if (exception instanceof AuthorizationException) {
+            return CompletableFuture.completedFuture(
+                    DataFetcherExceptionHandlerResult.newResult()
+                            .error(TypedGraphQLError.newBuilder()
+                                    .message(exception.getMessage())
+                                    .path(handlerParameters.getPath())
+                                    .extensions(Map.of("code", "PERMISSION_DENIED"))
+                                    .build())
+                            .build()
+            );
+        }
+
         if (exception instanceof UserNotFoundException) {
             return CompletableFuture.completedFuture(
                 DataFetcherExceptionHandlerResult.newResult()
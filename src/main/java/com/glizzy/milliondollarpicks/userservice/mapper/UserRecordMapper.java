@@ -0,0 +1,43 @@
+package com.glizzy.milliondollarpicks.userservice.mapper;
+
+import com.glizzy.milliondollarpicks.userservice.dto.UserDto;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserRecord;
+import com.google.protobuf.Timestamp;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Mapper class for converting between UserDto and the gRPC UserRecord message
+ */
+@Component
+public class UserRecordMapper {
+
+    /**
+     * Converts a UserDto to a UserRecord; null dates are left unset
+     * @param userDto The UserDto to convert
+     * @return The converted UserRecord
+     */
+    public UserRecord toRecord(UserDto userDto) {
+        UserRecord.Builder builder = UserRecord.newBuilder()
+                .setId(userDto.getId())
+                .setUsername(userDto.getUsername());
+        if (userDto.getEmail() != null) {
+            builder.setEmail(userDto.getEmail());
+        }
+        if (userDto.getRegistrationDate() != null) {
+            builder.setRegistrationDate(toTimestamp(userDto.getRegistrationDate()));
+        }
+        if (userDto.getLastLoginDate() != null) {
+            builder.setLastLoginDate(toTimestamp(userDto.getLastLoginDate()));
+        }
+        return builder.build();
+    }
+
+    private Timestamp toTimestamp(OffsetDateTime dateTime) {
+        return Timestamp.newBuilder()
+                .setSeconds(dateTime.toEpochSecond())
+                .setNanos(dateTime.getNano())
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package com.glizzy.milliondollarpicks.userservice.repository;
 import com.glizzy.milliondollarpicks.userservice.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -21,6 +23,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Find all users with one of the given IDs in a single query
+     * @param ids the IDs to search for
+     * @return the matching users, in no particular order
+     */
+    List<User> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Find all users with one of the given usernames in a single query
+     * @param usernames the usernames to search for
+     * @return the matching users, in no particular order
+     */
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    /**
+     * Find all users with one of the given emails in a single query
+     * @param emails the emails to search for
+     * @return the matching users, in no particular order
+     */
+    List<User> findByEmailIn(Collection<String> emails);
 
     /**
      * Check if a user with the given username exists
@@ -28,4 +50,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return true if the user exists, false otherwise
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Check if a user with the given email exists
+     * @param email the email to check
+     * @return true if the user exists, false otherwise
+     */
+    boolean existsByEmail(String email);
 }
\ No newline at end of file
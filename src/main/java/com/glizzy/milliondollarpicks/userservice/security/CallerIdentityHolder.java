@@ -0,0 +1,32 @@
+package com.glizzy.milliondollarpicks.userservice.security;
+
+import com.glizzy.milliondollarpicks.userservice.dto.CallerIdentityDto;
+import io.grpc.Context;
+
+/**
+ * Holds the identity of the caller for the current gRPC call
+ */
+public final class CallerIdentityHolder {
+
+    private static final Context.Key<CallerIdentityDto> CALLER_IDENTITY = Context.key("caller-identity");
+
+    private CallerIdentityHolder() {
+    }
+
+    /**
+     * Creates a context carrying the given caller identity
+     * @param identity The identity of the caller
+     * @return A child of the current context holding the identity
+     */
+    public static Context withCallerIdentity(CallerIdentityDto identity) {
+        return Context.current().withValue(CALLER_IDENTITY, identity);
+    }
+
+    /**
+     * Get the caller identity of the current call
+     * @return The caller identity, or null outside of a gRPC call
+     */
+    public static CallerIdentityDto getCallerIdentity() {
+        return CALLER_IDENTITY.get();
+    }
+}
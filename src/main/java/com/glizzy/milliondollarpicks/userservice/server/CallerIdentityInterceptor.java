@@ -0,0 +1,41 @@
+package com.glizzy.milliondollarpicks.userservice.server;
+
+import com.glizzy.milliondollarpicks.userservice.dto.CallerIdentityDto;
+import com.glizzy.milliondollarpicks.userservice.security.CallerIdentityHolder;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Copies the caller identity from gRPC metadata into the call {@link Context}
+ * (see {@link CallerIdentityHolder}), where it plays the role the HTTP headers
+ * play for GraphQL requests
+ */
+@Component
+public class CallerIdentityInterceptor implements ServerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(CallerIdentityInterceptor.class);
+
+    public static final Metadata.Key<String> CALLER_SERVICE_KEY =
+            Metadata.Key.of("x-caller-service", Metadata.ASCII_STRING_MARSHALLER);
+
+    public static final Metadata.Key<String> AUTHORIZATION_KEY =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        CallerIdentityDto identity = new CallerIdentityDto(headers.get(CALLER_SERVICE_KEY), headers.get(AUTHORIZATION_KEY));
+        log.debug("gRPC call {} from caller service: {}", call.getMethodDescriptor().getFullMethodName(),
+                identity.getCallerService());
+
+        Context context = CallerIdentityHolder.withCallerIdentity(identity);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+}
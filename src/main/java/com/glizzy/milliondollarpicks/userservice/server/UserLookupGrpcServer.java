@@ -0,0 +1,70 @@
+package com.glizzy.milliondollarpicks.userservice.server;
+
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC UserLookup server on its own port alongside the DGS endpoint.
+ * The server is started once the application context has been refreshed, so no
+ * call is accepted before every bean is ready.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "grpc.server.enabled", havingValue = "true", matchIfMissing = true)
+public class UserLookupGrpcServer implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(UserLookupGrpcServer.class);
+
+    private final UserLookupGrpcService userLookupGrpcService;
+    private final CallerIdentityInterceptor callerIdentityInterceptor;
+
+    @Value("${grpc.server.port:9091}")
+    private int port;
+
+    private volatile Server server;
+
+    @Override
+    public void start() {
+        try {
+            server = ServerBuilder.forPort(port)
+                    .addService(ServerInterceptors.intercept(userLookupGrpcService, callerIdentityInterceptor))
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start gRPC server on port " + port, e);
+        }
+        log.info("gRPC UserLookup server started on port {}", port);
+    }
+
+    @Override
+    public void stop() {
+        log.info("Shutting down gRPC server");
+        if (server != null) {
+            try {
+                if (!server.shutdown().awaitTermination(5, TimeUnit.SECONDS)) {
+                    server.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                log.error("Error shutting down gRPC server: {}", e.getMessage());
+                server.shutdownNow();
+                Thread.currentThread().interrupt();
+            } finally {
+                server = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
@@ -0,0 +1,149 @@
+package com.glizzy.milliondollarpicks.userservice.server;
+
+import com.glizzy.milliondollarpicks.userservice.dto.UserDto;
+import com.glizzy.milliondollarpicks.userservice.exception.AuthenticationException;
+import com.glizzy.milliondollarpicks.userservice.exception.AuthorizationException;
+import com.glizzy.milliondollarpicks.userservice.exception.DuplicateUserException;
+import com.glizzy.milliondollarpicks.userservice.exception.UserNotFoundException;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserByEmailRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserByIdRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserByUsernameRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserLookupGrpc;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserResponse;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersByEmailsRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersByIdsRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersByUsernamesRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersResponse;
+import com.glizzy.milliondollarpicks.userservice.mapper.UserRecordMapper;
+import com.glizzy.milliondollarpicks.userservice.service.UserService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * gRPC implementation of the UserLookup service, backed by {@link UserService}
+ */
+@Component
+@RequiredArgsConstructor
+public class UserLookupGrpcService extends UserLookupGrpc.UserLookupImplBase {
+    private static final Logger log = LoggerFactory.getLogger(UserLookupGrpcService.class);
+
+    private final UserService userService;
+    private final UserRecordMapper userRecordMapper;
+
+    @Value("${grpc.server.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Override
+    public void getUserById(UserByIdRequest request, StreamObserver<UserResponse> responseObserver) {
+        respond(responseObserver, () -> toResponse(userService.findUserById(request.getId())));
+    }
+
+    @Override
+    public void getUserByUsername(UserByUsernameRequest request, StreamObserver<UserResponse> responseObserver) {
+        respond(responseObserver, () -> toResponse(userService.findUserByUsername(request.getUsername())));
+    }
+
+    @Override
+    public void getUserByEmail(UserByEmailRequest request, StreamObserver<UserResponse> responseObserver) {
+        respond(responseObserver, () -> toResponse(userService.findUserByEmail(request.getEmail())));
+    }
+
+    @Override
+    public void getUsersByIds(UsersByIdsRequest request, StreamObserver<UsersResponse> responseObserver) {
+        respond(responseObserver, () ->
+                findUsers(request.getIdsList(), userService::findUsersByIds, UserDto::getId));
+    }
+
+    @Override
+    public void getUsersByUsernames(UsersByUsernamesRequest request, StreamObserver<UsersResponse> responseObserver) {
+        respond(responseObserver, () ->
+                findUsers(request.getUsernamesList(), userService::findUsersByUsernames, UserDto::getUsername));
+    }
+
+    @Override
+    public void getUsersByEmails(UsersByEmailsRequest request, StreamObserver<UsersResponse> responseObserver) {
+        respond(responseObserver, () ->
+                findUsers(request.getEmailsList(), userService::findUsersByEmails, UserDto::getEmail));
+    }
+
+    private UserResponse toResponse(UserDto user) {
+        return UserResponse.newBuilder()
+                .setUser(userRecordMapper.toRecord(user))
+                .build();
+    }
+
+    /**
+     * Runs a batch lookup and orders the result to match the request
+     * @param keys The requested keys, possibly with duplicates
+     * @param lookup The batch lookup on {@link UserService}
+     * @param keyOf Extracts the lookup key from a found user
+     * @return The found users in request order, plus the keys that matched nobody
+     */
+    private <K> UsersResponse findUsers(List<K> keys,
+                                        Function<Collection<K>, List<UserDto>> lookup,
+                                        Function<UserDto, K> keyOf) {
+        Set<K> distinctKeys = new LinkedHashSet<>(keys);
+        if (distinctKeys.size() > maxBatchSize) {
+            throw Status.INVALID_ARGUMENT
+                    .withDescription("Batch size " + distinctKeys.size() + " exceeds the maximum of " + maxBatchSize)
+                    .asRuntimeException();
+        }
+
+        Map<K, UserDto> usersByKey = new HashMap<>();
+        for (UserDto user : lookup.apply(distinctKeys)) {
+            // Emails are not unique in the schema; report a shared one like the unary lookup does
+            if (usersByKey.putIfAbsent(keyOf.apply(user), user) != null) {
+                throw new DuplicateUserException("Multiple users found with key: " + keyOf.apply(user));
+            }
+        }
+
+        UsersResponse.Builder response = UsersResponse.newBuilder();
+        for (K key : distinctKeys) {
+            UserDto user = usersByKey.get(key);
+            if (user != null) {
+                response.addUsers(userRecordMapper.toRecord(user));
+            } else {
+                response.addNotFound(String.valueOf(key));
+            }
+        }
+        return response.build();
+    }
+
+    /**
+     * Completes the call with the handler's result, translating service exceptions to gRPC status codes
+     */
+    private <T> void respond(StreamObserver<T> responseObserver, Supplier<T> handler) {
+        try {
+            responseObserver.onNext(handler.get());
+            responseObserver.onCompleted();
+        } catch (AuthorizationException e) {
+            responseObserver.onError(Status.PERMISSION_DENIED.withDescription(e.getMessage()).asRuntimeException());
+        } catch (AuthenticationException e) {
+            responseObserver.onError(Status.UNAUTHENTICATED.withDescription(e.getMessage()).asRuntimeException());
+        } catch (DuplicateUserException e) {
+            responseObserver.onError(Status.FAILED_PRECONDITION.withDescription(e.getMessage()).asRuntimeException());
+        } catch (UserNotFoundException e) {
+            responseObserver.onError(Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+        } catch (Exception e) {
+            log.error("User lookup failed", e);
+            responseObserver.onError(Status.INTERNAL.withDescription("Internal error").asRuntimeException());
+        }
+    }
+}
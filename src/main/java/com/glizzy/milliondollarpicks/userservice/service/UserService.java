@@ -2,10 +2,16 @@ package com.glizzy.milliondollarpicks.userservice.service;
 
 import com.glizzy.milliondollarpicks.userservice.dto.UserDto;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserService {
     UserDto findUserByUsername(String username);
     UserDto findUserById(Long id);
     UserDto findUserByEmail(String email);
+    List<UserDto> findUsersByIds(Collection<Long> ids); // Batch lookups return only the users that exist
+    List<UserDto> findUsersByUsernames(Collection<String> usernames);
+    List<UserDto> findUsersByEmails(Collection<String> emails);
     UserDto updateLastLogin(String username);
     UserDto createOrUpdateUser(String username, String email); // For federation to create/update users
 }
\ No newline at end of file
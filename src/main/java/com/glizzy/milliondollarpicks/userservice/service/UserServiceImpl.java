@@ -1,17 +1,22 @@
 package com.glizzy.milliondollarpicks.userservice.service;
 
 import com.glizzy.milliondollarpicks.userservice.client.AuthServiceClient;
+import com.glizzy.milliondollarpicks.userservice.dto.CallerIdentityDto;
 import com.glizzy.milliondollarpicks.userservice.dto.TokenValidationResultDto;
 import com.glizzy.milliondollarpicks.userservice.dto.UserDto;
 import com.glizzy.milliondollarpicks.userservice.dto.UserInfoDto;
 import com.glizzy.milliondollarpicks.userservice.entity.User;
 import com.glizzy.milliondollarpicks.userservice.exception.AuthenticationException;
+import com.glizzy.milliondollarpicks.userservice.exception.AuthorizationException;
+import com.glizzy.milliondollarpicks.userservice.exception.DuplicateUserException;
 import com.glizzy.milliondollarpicks.userservice.exception.UserNotFoundException;
 import com.glizzy.milliondollarpicks.userservice.mapper.UserMapper;
 import com.glizzy.milliondollarpicks.userservice.repository.UserRepository;
+import com.glizzy.milliondollarpicks.userservice.security.CallerIdentityHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -19,6 +24,9 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
 import lombok.RequiredArgsConstructor;
 
@@ -38,11 +46,16 @@ public class UserServiceImpl implements UserService {
     @Value("${authentication.bypass-header:X-Apollo-Gateway}")
     private String bypassHeader;
 
+    @Value("${grpc.server.trusted-callers:}")
+    private List<String> trustedCallers;
+
     /**
-     * Validates user authentication from the current request context
+     * Validates user authentication from the current request context,
+     * which is either an HTTP request or a gRPC call
      * @param requiredUsername If provided, also validates that the authenticated user matches this username
      * @return The authenticated user's info, or null if authentication is disabled/bypassed
      * @throws AuthenticationException if authentication fails
+     * @throws AuthorizationException if the authenticated user does not match requiredUsername
      */
     private UserInfoDto validateAuthentication(String requiredUsername) {
         if (!authenticationEnabled) {
@@ -50,24 +63,40 @@ public class UserServiceImpl implements UserService {
             return null;
         }
 
+        String authHeader;
+
         // Get the current request from the context
         ServletRequestAttributes requestAttributes =
                 (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (requestAttributes == null) {
-            log.warn("No request attributes found in context, cannot authenticate");
-            return null;
-        }
+        CallerIdentityDto callerIdentity = CallerIdentityHolder.getCallerIdentity();
+        if (requestAttributes != null) {
+            HttpServletRequest request = requestAttributes.getRequest();
 
-        HttpServletRequest request = requestAttributes.getRequest();
+            // Check for bypass header (from gateway)
+            if (request.getHeader(bypassHeader) != null) {
+                log.debug("Authentication bypassed due to header: {}", bypassHeader);
+                return null;
+            }
+
+            authHeader = request.getHeader("Authorization");
+        } else if (callerIdentity != null) {
+            // Internal services identify themselves through gRPC metadata
+            String callerService = callerIdentity.getCallerService();
+            if (callerService != null) {
+                if (trustedCallers.contains(callerService)) {
+                    log.debug("Authentication bypassed for trusted caller: {}", callerService);
+                    return null;
+                }
+                log.warn("Caller service {} is not trusted, falling back to token authentication", callerService);
+            }
 
-        // Check for bypass header (from gateway)
-        if (request.getHeader(bypassHeader) != null) {
-            log.debug("Authentication bypassed due to header: {}", bypassHeader);
+            authHeader = callerIdentity.getAuthorization();
+        } else {
+            log.warn("No request attributes found in context, cannot authenticate");
             return null;
         }
 
         // Extract token from Authorization header
-        String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             throw new AuthenticationException("Authentication required");
         }
@@ -88,7 +117,7 @@ public class UserServiceImpl implements UserService {
 
         // If a specific username is required, validate it
         if (requiredUsername != null && !requiredUsername.equals(userInfo.getUsername())) {
-            throw new AuthenticationException("You are not authorized to access this user's data");
+            throw new AuthorizationException("You are not authorized to access this user's data");
         }
 
         return userInfo;
@@ -121,14 +150,69 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDto findUserByEmail(String email) {
         // For email-based lookup, similar to ID
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
+        User user;
+        try {
+            user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
+        } catch (IncorrectResultSizeDataAccessException e) {
+            throw new DuplicateUserException("Multiple users found with email: " + email);
+        }
 
         validateAuthentication(user.getUsername());
 
         return userMapper.toDto(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> findUsersByIds(Collection<Long> ids) {
+        return findUsers(ids, validateAuthentication(null), userRepository::findByIdIn);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> findUsersByUsernames(Collection<String> usernames) {
+        UserInfoDto userInfo = validateAuthentication(null);
+
+        // End users may only ask for themselves; reject before querying so other names cannot be probed
+        if (userInfo != null) {
+            for (String username : usernames) {
+                if (!username.equals(userInfo.getUsername())) {
+                    throw new AuthorizationException("You are not authorized to access this user's data");
+                }
+            }
+        }
+
+        return findUsers(usernames, userInfo, userRepository::findByUsernameIn);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> findUsersByEmails(Collection<String> emails) {
+        return findUsers(emails, validateAuthentication(null), userRepository::findByEmailIn);
+    }
+
+    /**
+     * Runs a batch lookup as a single query, restricted to what the caller may see
+     * @param keys The keys to look up
+     * @param userInfo The authenticated end user, or null for trusted callers
+     * @param query The set-based repository query for those keys
+     * @return The users that were found, in no particular order
+     */
+    private <K> List<UserDto> findUsers(Collection<K> keys,
+                                        UserInfoDto userInfo,
+                                        Function<Collection<K>, List<User>> query) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        // Other users' records are dropped so they look exactly like missing ones
+        return query.apply(keys).stream()
+                .filter(user -> userInfo == null || user.getUsername().equals(userInfo.getUsername()))
+                .map(userMapper::toDto)
+                .toList();
+    }
+
     @Override
     public UserDto updateLastLogin(String username) {
         // Authenticate - only allow users to update their own login time
@@ -149,7 +233,7 @@ public class UserServiceImpl implements UserService {
         UserInfoDto userInfo = null;
         try {
             userInfo = validateAuthentication(username);
-        } catch (AuthenticationException e) {
+        } catch (AuthenticationException | AuthorizationException e) {
             // For this method, we'll allow unauthenticated calls if:
             // 1. It's a new user (not an update)
             if (!userRepository.existsByUsername(username)) {
@@ -163,7 +247,8 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByUsername(username)
                 .map(existingUser -> {
                     // This is an update - already authenticated above
-                    if (email != null) {
+                    if (email != null && !email.equals(existingUser.getEmail())) {
+                        checkEmailAvailable(email);
                         existingUser.setEmail(email);
                     }
                     return userMapper.toDto(userRepository.save(existingUser));
@@ -172,13 +257,22 @@ public class UserServiceImpl implements UserService {
                     // This is a new user creation
                     User newUser = new User();
                     newUser.setUsername(username);
-                    if (email != null) {
-                        newUser.setEmail(email);
-                    } else {
-                        newUser.setEmail(username + "@example.com");
-                    }
+                    String newEmail = email != null ? email : username + "@example.com";
+                    checkEmailAvailable(newEmail);
+                    newUser.setEmail(newEmail);
                     newUser.setRegistrationDate(OffsetDateTime.now());
                     return userMapper.toDto(userRepository.save(newUser));
                 });
     }
+
+    /**
+     * Ensures no other user already has the given email
+     * @param email The email about to be assigned
+     * @throws DuplicateUserException if the email is taken
+     */
+    private void checkEmailAvailable(String email) {
+        if (userRepository.existsByEmail(email)) {
+            throw new DuplicateUserException("User already exists with email: " + email);
+        }
+    }
 }
\ No newline at end of file
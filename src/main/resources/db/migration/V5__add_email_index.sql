@@ -0,0 +1,2 @@
+-- Index emails for lookups; not unique because existing rows may share an email
+CREATE INDEX IF NOT EXISTS users_email_idx ON users (email);
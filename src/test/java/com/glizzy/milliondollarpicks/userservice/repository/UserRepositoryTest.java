@@ -0,0 +1,68 @@
+package com.glizzy.milliondollarpicks.userservice.repository;
+
+import com.glizzy.milliondollarpicks.userservice.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = userRepository.save(user("alice", "alice@example.com"));
+        bob = userRepository.save(user("bob", "shared@example.com"));
+        carol = userRepository.save(user("carol", "shared@example.com"));
+    }
+
+    @Test
+    void findByIdInReturnsOnlyMatchingUsers() {
+        List<User> users = userRepository.findByIdIn(List.of(alice.getId(), carol.getId(), -1L));
+
+        assertThat(users).extracting(User::getUsername).containsExactlyInAnyOrder("alice", "carol");
+    }
+
+    @Test
+    void findByUsernameInReturnsOnlyMatchingUsers() {
+        List<User> users = userRepository.findByUsernameIn(List.of("bob", "nobody"));
+
+        assertThat(users).extracting(User::getId).containsExactly(bob.getId());
+    }
+
+    @Test
+    void findByEmailInReturnsEveryUserSharingAnEmail() {
+        List<User> users = userRepository.findByEmailIn(List.of("shared@example.com", "alice@example.com"));
+
+        assertThat(users).extracting(User::getUsername).containsExactlyInAnyOrder("alice", "bob", "carol");
+    }
+
+    @Test
+    void existsByEmailChecksForAnyUserWithTheEmail() {
+        assertThat(userRepository.existsByEmail("shared@example.com")).isTrue();
+        assertThat(userRepository.existsByEmail("nobody@example.com")).isFalse();
+    }
+
+    private static User user(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setRegistrationDate(OffsetDateTime.now());
+        return user;
+    }
+}
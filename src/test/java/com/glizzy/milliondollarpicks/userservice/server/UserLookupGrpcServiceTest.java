@@ -0,0 +1,181 @@
+package com.glizzy.milliondollarpicks.userservice.server;
+
+import com.glizzy.milliondollarpicks.userservice.dto.CallerIdentityDto;
+import com.glizzy.milliondollarpicks.userservice.dto.UserDto;
+import com.glizzy.milliondollarpicks.userservice.exception.AuthenticationException;
+import com.glizzy.milliondollarpicks.userservice.exception.AuthorizationException;
+import com.glizzy.milliondollarpicks.userservice.exception.DuplicateUserException;
+import com.glizzy.milliondollarpicks.userservice.exception.UserNotFoundException;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserByIdRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserLookupGrpc;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserRecord;
+import com.glizzy.milliondollarpicks.userservice.grpc.UserResponse;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersByEmailsRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersByIdsRequest;
+import com.glizzy.milliondollarpicks.userservice.grpc.UsersResponse;
+import com.glizzy.milliondollarpicks.userservice.mapper.UserRecordMapper;
+import com.glizzy.milliondollarpicks.userservice.security.CallerIdentityHolder;
+import com.glizzy.milliondollarpicks.userservice.service.UserService;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserLookupGrpcServiceTest {
+
+    @Mock
+    private UserService userService;
+
+    private Server server;
+    private ManagedChannel channel;
+    private UserLookupGrpc.UserLookupBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        UserLookupGrpcService service = new UserLookupGrpcService(userService, new UserRecordMapper());
+        ReflectionTestUtils.setField(service, "maxBatchSize", 3);
+
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(service, new CallerIdentityInterceptor()))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName)
+                .directExecutor()
+                .build();
+        stub = UserLookupGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchReturnsUsersInRequestOrderAndListsMissingKeys() {
+        when(userService.findUsersByIds(any())).thenReturn(List.of(user(1L, "alice"), user(3L, "carol")));
+
+        UsersResponse response = stub.getUsersByIds(UsersByIdsRequest.newBuilder()
+                .addAllIds(List.of(3L, 1L, 3L, 2L))
+                .build());
+
+        assertThat(response.getUsersList()).extracting(UserRecord::getId).containsExactly(3L, 1L);
+        assertThat(response.getNotFoundList()).containsExactly("2");
+
+        ArgumentCaptor<Collection<Long>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(userService).findUsersByIds(keys.capture());
+        assertThat(keys.getValue()).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void batchRejectsSharedEmails() {
+        UserDto bob = user(2L, "bob");
+        UserDto carol = user(3L, "carol");
+        carol.setEmail(bob.getEmail());
+        when(userService.findUsersByEmails(any())).thenReturn(List.of(bob, carol));
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () ->
+                stub.getUsersByEmails(UsersByEmailsRequest.newBuilder().addEmails(bob.getEmail()).build()));
+
+        assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.FAILED_PRECONDITION);
+    }
+
+    @Test
+    void batchOverLimitIsRejectedBeforeLookup() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () ->
+                stub.getUsersByIds(UsersByIdsRequest.newBuilder().addAllIds(List.of(1L, 2L, 3L, 4L)).build()));
+
+        assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    void duplicateKeysDoNotCountTowardsLimit() {
+        when(userService.findUsersByIds(any())).thenReturn(List.of());
+
+        UsersResponse response = stub.getUsersByIds(UsersByIdsRequest.newBuilder()
+                .addAllIds(List.of(1L, 1L, 2L, 2L, 3L))
+                .build());
+
+        assertThat(response.getNotFoundList()).containsExactly("1", "2", "3");
+    }
+
+    @Test
+    void callerMetadataReachesUserService() {
+        AtomicReference<CallerIdentityDto> seen = new AtomicReference<>();
+        when(userService.findUserById(1L)).thenAnswer(invocation -> {
+            seen.set(CallerIdentityHolder.getCallerIdentity());
+            return user(1L, "alice");
+        });
+
+        Metadata metadata = new Metadata();
+        metadata.put(CallerIdentityInterceptor.CALLER_SERVICE_KEY, "pick-service");
+        metadata.put(CallerIdentityInterceptor.AUTHORIZATION_KEY, "Bearer token");
+        UserResponse response = stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(metadata))
+                .getUserById(UserByIdRequest.newBuilder().setId(1L).build());
+
+        assertThat(response.getUser().getUsername()).isEqualTo("alice");
+        assertThat(seen.get()).isEqualTo(new CallerIdentityDto("pick-service", "Bearer token"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("statusMappings")
+    void serviceExceptionsMapToStatusCodes(RuntimeException thrown, Status.Code expected) {
+        when(userService.findUserById(1L)).thenThrow(thrown);
+
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () ->
+                stub.getUserById(UserByIdRequest.newBuilder().setId(1L).build()));
+
+        assertThat(e.getStatus().getCode()).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> statusMappings() {
+        return Stream.of(
+                Arguments.of(new AuthenticationException("Authentication required"), Status.Code.UNAUTHENTICATED),
+                Arguments.of(new AuthorizationException("Not yours"), Status.Code.PERMISSION_DENIED),
+                Arguments.of(new UserNotFoundException("Missing"), Status.Code.NOT_FOUND),
+                Arguments.of(new DuplicateUserException("Shared email"), Status.Code.FAILED_PRECONDITION),
+                Arguments.of(new IllegalArgumentException("Internal bug"), Status.Code.INTERNAL)
+        );
+    }
+
+    private static UserDto user(Long id, String username) {
+        return UserDto.builder()
+                .id(id)
+                .username(username)
+                .email(username + "@example.com")
+                .build();
+    }
+}
@@ -0,0 +1,204 @@
+package com.glizzy.milliondollarpicks.userservice.service;
+
+import com.glizzy.milliondollarpicks.userservice.client.AuthServiceClient;
+import com.glizzy.milliondollarpicks.userservice.dto.CallerIdentityDto;
+import com.glizzy.milliondollarpicks.userservice.dto.TokenValidationResultDto;
+import com.glizzy.milliondollarpicks.userservice.dto.UserDto;
+import com.glizzy.milliondollarpicks.userservice.dto.UserInfoDto;
+import com.glizzy.milliondollarpicks.userservice.entity.User;
+import com.glizzy.milliondollarpicks.userservice.exception.AuthenticationException;
+import com.glizzy.milliondollarpicks.userservice.exception.AuthorizationException;
+import com.glizzy.milliondollarpicks.userservice.exception.DuplicateUserException;
+import com.glizzy.milliondollarpicks.userservice.mapper.UserMapper;
+import com.glizzy.milliondollarpicks.userservice.repository.UserRepository;
+import com.glizzy.milliondollarpicks.userservice.security.CallerIdentityHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    private static final String TOKEN = "Bearer alice-token";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AuthServiceClient authServiceClient;
+
+    private UserServiceImpl userService;
+
+    private final User alice = user(1L, "alice", "alice@example.com");
+    private final User bob = user(2L, "bob", "bob@example.com");
+
+    @BeforeEach
+    void setUp() {
+        userService = new UserServiceImpl(userRepository, new UserMapper(), authServiceClient);
+        ReflectionTestUtils.setField(userService, "authenticationEnabled", true);
+        ReflectionTestUtils.setField(userService, "bypassHeader", "X-Apollo-Gateway");
+        ReflectionTestUtils.setField(userService, "trustedCallers", List.of("pick-service"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void gatewayHeaderBypassesAuthentication() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Apollo-Gateway", "gateway");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        when(userRepository.findByIdIn(any())).thenReturn(List.of(alice, bob));
+
+        List<UserDto> users = userService.findUsersByIds(List.of(1L, 2L));
+
+        assertThat(users).extracting(UserDto::getUsername).containsExactly("alice", "bob");
+        verifyNoInteractions(authServiceClient);
+    }
+
+    @Test
+    void servletRequestTakesPrecedenceOverGrpcCallerContext() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertThrows(AuthenticationException.class, () ->
+                inGrpcCall(new CallerIdentityDto("pick-service", null), () -> userService.findUsersByIds(List.of(1L))));
+        verify(userRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    void trustedCallerBypassesAuthentication() throws Exception {
+        when(userRepository.findByIdIn(any())).thenReturn(List.of(alice, bob));
+
+        List<UserDto> users = inGrpcCall(new CallerIdentityDto("pick-service", null),
+                () -> userService.findUsersByIds(List.of(1L, 2L)));
+
+        assertThat(users).extracting(UserDto::getUsername).containsExactly("alice", "bob");
+        verifyNoInteractions(authServiceClient);
+    }
+
+    @Test
+    void untrustedCallerWithoutTokenIsRejected() {
+        assertThrows(AuthenticationException.class, () ->
+                inGrpcCall(new CallerIdentityDto("rogue-service", null), () -> userService.findUsersByIds(List.of(1L))));
+        verify(userRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    void untrustedCallerFallsBackToTokenAndOnlySeesOwnRecord() throws Exception {
+        authenticateAsAlice();
+        when(userRepository.findByIdIn(any())).thenReturn(List.of(alice, bob));
+
+        List<UserDto> users = inGrpcCall(new CallerIdentityDto("rogue-service", TOKEN),
+                () -> userService.findUsersByIds(List.of(1L, 2L)));
+
+        assertThat(users).extracting(UserDto::getUsername).containsExactly("alice");
+    }
+
+    @Test
+    void invalidTokenIsRejected() {
+        when(authServiceClient.validateToken(anyString())).thenReturn(new TokenValidationResultDto(false, "expired"));
+
+        assertThrows(AuthenticationException.class, () ->
+                inGrpcCall(new CallerIdentityDto(null, TOKEN), () -> userService.findUsersByEmails(List.of("alice@example.com"))));
+    }
+
+    @Test
+    void batchByEmailHidesOtherUsersLikeMissingOnes() throws Exception {
+        authenticateAsAlice();
+        when(userRepository.findByEmailIn(any())).thenReturn(List.of(bob));
+
+        List<UserDto> users = inGrpcCall(new CallerIdentityDto(null, TOKEN),
+                () -> userService.findUsersByEmails(List.of("bob@example.com")));
+
+        assertThat(users).isEmpty();
+    }
+
+    @Test
+    void batchByUsernameRejectsOtherUsersBeforeQuerying() {
+        authenticateAsAlice();
+
+        assertThrows(AuthorizationException.class, () ->
+                inGrpcCall(new CallerIdentityDto(null, TOKEN),
+                        () -> userService.findUsersByUsernames(List.of("alice", "nobody"))));
+        verify(userRepository, never()).findByUsernameIn(any());
+    }
+
+    @Test
+    void batchByUsernameReturnsOwnRecord() throws Exception {
+        authenticateAsAlice();
+        when(userRepository.findByUsernameIn(any())).thenReturn(List.of(alice));
+
+        List<UserDto> users = inGrpcCall(new CallerIdentityDto(null, TOKEN),
+                () -> userService.findUsersByUsernames(List.of("alice")));
+
+        assertThat(users).extracting(UserDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    void findUserByEmailReportsSharedEmail() {
+        when(userRepository.findByEmail("shared@example.com"))
+                .thenThrow(new IncorrectResultSizeDataAccessException(1, 2));
+
+        assertThrows(DuplicateUserException.class, () -> userService.findUserByEmail("shared@example.com"));
+    }
+
+    @Test
+    void createOrUpdateUserRejectsEmailOfAnotherUser() {
+        ReflectionTestUtils.setField(userService, "authenticationEnabled", false);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(alice));
+        when(userRepository.existsByEmail("bob@example.com")).thenReturn(true);
+
+        assertThrows(DuplicateUserException.class, () -> userService.createOrUpdateUser("alice", "bob@example.com"));
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void createOrUpdateUserRejectsNewUserWithTakenEmail() {
+        ReflectionTestUtils.setField(userService, "authenticationEnabled", false);
+        when(userRepository.findByUsername("dave")).thenReturn(Optional.empty());
+        when(userRepository.existsByEmail("bob@example.com")).thenReturn(true);
+
+        assertThrows(DuplicateUserException.class, () -> userService.createOrUpdateUser("dave", "bob@example.com"));
+        verify(userRepository, never()).save(any());
+    }
+
+    private void authenticateAsAlice() {
+        when(authServiceClient.validateToken("alice-token")).thenReturn(new TokenValidationResultDto(true, "ok"));
+        when(authServiceClient.getUserInfo("alice-token")).thenReturn(new UserInfoDto("1", "alice"));
+    }
+
+    private static <T> T inGrpcCall(CallerIdentityDto identity, Callable<T> call) throws Exception {
+        return CallerIdentityHolder.withCallerIdentity(identity).call(call);
+    }
+
+    private static User user(Long id, String username, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+}